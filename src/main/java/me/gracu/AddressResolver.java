@@ -0,0 +1,120 @@
+package me.gracu;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AddressResolver {
+
+    private static final long POSITIVE_TTL_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long NEGATIVE_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long REFRESH_AHEAD_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private static class CacheEntry {
+        final InetAddress address;
+        final long expiresAt;
+        volatile boolean refreshing;
+
+        CacheEntry(InetAddress address, long expiresAt) {
+            this.address = address;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<CacheEntry>> pendingLookups = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ExecutorService resolverPool = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "dns-resolver-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Returns a ready socket address for the given host without blocking on DNS, except for
+     * the very first lookup of a host whose prefetch has not finished yet; that lookup is
+     * shared with the prefetch rather than repeated. Entries close to expiry are
+     * refreshed in the background while the cached address keeps being served. Hosts that
+     * failed to resolve come back as an unresolved address until the negative entry expires.
+     */
+    public static InetSocketAddress resolve(String host, int port) {
+        CacheEntry entry = cache.get(host);
+        if (entry == null) {
+            entry = initialLookup(host).join();
+        } else if (System.currentTimeMillis() >= entry.expiresAt - refreshWindow(entry)) {
+            scheduleRefresh(host, entry);
+        }
+
+        if (entry.address == null) {
+            return InetSocketAddress.createUnresolved(host, port);
+        }
+        return new InetSocketAddress(entry.address, port);
+    }
+
+    public static void prefetch(Collection<String> hosts) {
+        for (String host : hosts) {
+            if (!cache.containsKey(host)) {
+                initialLookup(host);
+            }
+        }
+    }
+
+    public static void retainOnly(Collection<String> hosts) {
+        cache.keySet().retainAll(hosts);
+    }
+
+    private static long refreshWindow(CacheEntry entry) {
+        return entry.address == null ? 0 : REFRESH_AHEAD_MS;
+    }
+
+    private static CompletableFuture<CacheEntry> initialLookup(String host) {
+        return pendingLookups.computeIfAbsent(host, key ->
+                CompletableFuture.supplyAsync(() -> lookup(key), resolverPool)
+                        // Async so the removal never runs inside computeIfAbsent on the caller thread
+                        .thenApplyAsync(entry -> {
+                            CacheEntry existing = cache.putIfAbsent(key, entry);
+                            pendingLookups.remove(key);
+                            return existing != null ? existing : entry;
+                        }, resolverPool));
+    }
+
+    private static void scheduleRefresh(String host, CacheEntry entry) {
+        if (entry.refreshing) return;
+        entry.refreshing = true;
+
+        resolverPool.execute(() -> {
+            try {
+                CacheEntry refreshed = lookup(host);
+                // Keep serving the last good address until it actually expires
+                boolean keepOld = refreshed.address == null && entry.address != null
+                        && System.currentTimeMillis() < entry.expiresAt;
+                if (!keepOld) {
+                    cache.replace(host, entry, refreshed);
+                }
+            } finally {
+                entry.refreshing = false;
+            }
+        });
+    }
+
+    private static CacheEntry lookup(String host) {
+        CacheEntry entry;
+        try {
+            InetAddress address = InetAddress.getByName(host);
+            entry = new CacheEntry(address, System.currentTimeMillis() + POSITIVE_TTL_MS);
+        } catch (UnknownHostException e) {
+            System.err.println("Unable to resolve host " + host + ": " + e.getMessage());
+            entry = new CacheEntry(null, System.currentTimeMillis() + NEGATIVE_TTL_MS);
+        }
+        return entry;
+    }
+}
@@ -17,15 +17,27 @@ public class FearQuery {
     };
 
     public static ServerStatus query(String ip, int port, int timeoutMs) {
+        return query(AddressResolver.resolve(ip, port), timeoutMs);
+    }
+
+    public static ServerStatus query(InetSocketAddress address, int timeoutMs) {
         ServerStatus status = new ServerStatus();
+
+        if (address.isUnresolved()) {
+            status.error = "Unable to resolve host " + address.getHostString();
+            status.online = false;
+            ProbeShaper.skip();
+            return status;
+        }
+
+        ProbeShaper.acquire(address);
         long startTime = System.currentTimeMillis();
 
         try (DatagramSocket socket = new DatagramSocket()) {
             socket.setSoTimeout(timeoutMs);
-            InetAddress address = InetAddress.getByName(ip);
 
             DatagramPacket detailsPacket = new DatagramPacket(
-                    PACKET_DETAILS, PACKET_DETAILS.length, address, port
+                    PACKET_DETAILS, PACKET_DETAILS.length, address
             );
             socket.send(detailsPacket);
 
@@ -61,7 +73,7 @@ public class FearQuery {
                 }
 
                 if (status.currentPlayers > 0) {
-                    queryPlayers(socket, address, port, timeoutMs, status);
+                    queryPlayers(socket, address, timeoutMs, status);
                 }
 
             } catch (SocketTimeoutException e) {
@@ -77,14 +89,15 @@ public class FearQuery {
         return status;
     }
 
-    private static void queryPlayers(DatagramSocket socket, InetAddress address, int port,
+    private static void queryPlayers(DatagramSocket socket, InetSocketAddress address,
                                      int timeoutMs, ServerStatus status) throws IOException {
         try {
             socket.setSoTimeout(timeoutMs / 2);
 
             DatagramPacket playersPacket = new DatagramPacket(
-                    PACKET_PLAYERS, PACKET_PLAYERS.length, address, port
+                    PACKET_PLAYERS, PACKET_PLAYERS.length, address
             );
+            ProbeShaper.acquireFollowUp(address);
             socket.send(playersPacket);
 
             byte[] playersBuffer = new byte[4096];
@@ -105,10 +105,11 @@ public class FearServerListFetcher {
                     String admin = cells.get(4).text().trim();
                     String version = cells.get(5).text().trim();
 
-                    if (ip.matches("^\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}$")) {
+                    if (ip.matches("^\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}$") ||
+                            ip.matches("^(?=.{1,253}$)([A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?\\.)+[A-Za-z]{2,63}$")) {
                         servers.add(new FearServer(ip, port, name, admin, version));
                     } else {
-                        System.err.println("Line omitted " + i + " with an incorrect IP address: " + ip);
+                        System.err.println("Line omitted " + i + " with an incorrect IP address or hostname: " + ip);
                     }
 
                 } catch (NumberFormatException e) {
@@ -9,6 +9,7 @@ import com.google.gson.reflect.TypeToken;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -25,20 +26,18 @@ public class FearServerMonitor {
     private static int listCheckInterval;
     private static int serversCheckInterval;
     private static int playerThreshold;
+    private static String publishMode;
+    private static int boardPages;
 
     private static List<FearServerListFetcher.FearServer> serverList = new ArrayList<>();
 
     private static class ServerMessageInfo {
         long messageId;
-        String lastContent;
-        String lastMap;
-        int lastPlayerCount;
+        StatusSnapshot lastStatus;
 
-        ServerMessageInfo(long messageId, String lastContent, String lastMap, int lastPlayerCount) {
+        ServerMessageInfo(long messageId, StatusSnapshot lastStatus) {
             this.messageId = messageId;
-            this.lastContent = lastContent;
-            this.lastMap = lastMap;
-            this.lastPlayerCount = lastPlayerCount;
+            this.lastStatus = lastStatus;
         }
     }
 
@@ -46,6 +45,7 @@ public class FearServerMonitor {
 
     private static JDA jda;
     private static TextChannel targetChannel;
+    private static StatusBoard statusBoard;
     private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
 
     public static void main(String[] args) {
@@ -65,6 +65,10 @@ public class FearServerMonitor {
                 System.exit(1);
             }
 
+            if (isBoardMode()) {
+                statusBoard = new StatusBoard(targetChannel, boardPages);
+            }
+
             loadServerList();
             scheduleTasks();
 
@@ -85,6 +89,8 @@ public class FearServerMonitor {
             props.setProperty("list_check_interval", "24"); // hours
             props.setProperty("servers_check_interval", "2"); // minutes
             props.setProperty("player_threshold", "3");
+            props.setProperty("publish_mode", "messages"); // messages or board
+            props.setProperty("board_pages", "1");
 
             try (FileOutputStream out = new FileOutputStream(CONFIG_FILE)) {
                 props.store(out, "Configuration for Fear Server Monitor Bot");
@@ -103,10 +109,23 @@ public class FearServerMonitor {
         listCheckInterval = Integer.parseInt(props.getProperty("list_check_interval"));
         serversCheckInterval = Integer.parseInt(props.getProperty("servers_check_interval"));
         playerThreshold = Integer.parseInt(props.getProperty("player_threshold"));
+        publishMode = props.getProperty("publish_mode", "messages").trim().toLowerCase();
+        boardPages = Integer.parseInt(props.getProperty("board_pages", "1"));
+
+        if (!publishMode.equals("messages") && !publishMode.equals("board")) {
+            throw new IllegalArgumentException("Invalid publish_mode '" + publishMode + "', expected 'messages' or 'board'");
+        }
+        if (boardPages < 1 || boardPages > StatusBoard.MAX_PAGES) {
+            throw new IllegalArgumentException("Invalid board_pages " + boardPages + ", expected 1-" + StatusBoard.MAX_PAGES);
+        }
 
         System.out.println("Config loaded!");
     }
 
+    private static boolean isBoardMode() {
+        return "board".equals(publishMode);
+    }
+
     private static void loadServerList() {
         File serverFile = new File(SERVER_LIST_FILE);
         if (!serverFile.exists()) {
@@ -120,6 +139,10 @@ public class FearServerMonitor {
             Type listType = new TypeToken<List<FearServerListFetcher.FearServer>>(){}.getType();
             serverList = gson.fromJson(reader, listType);
             System.out.println("Loaded " + serverList.size() + " servers from file.");
+
+            List<String> hosts = serverList.stream().map(FearServerListFetcher.FearServer::getIp).toList();
+            AddressResolver.retainOnly(hosts);
+            AddressResolver.prefetch(hosts);
         } catch (IOException e) {
             System.err.println("Error loading server list: " + e.getMessage());
             serverList = new ArrayList<>();
@@ -173,12 +196,17 @@ public class FearServerMonitor {
 
         System.out.println("Checking " + serverList.size() + " servers...");
 
+        long sweepBudgetMs = TimeUnit.MINUTES.toMillis(serversCheckInterval) / 2;
+        ProbeShaper.beginSweep(serverList.size(), sweepBudgetMs);
+
         int activeServers = 0;
         int serversWithPlayers = 0;
+        List<StatusBoard.Entry> boardSnapshot = new ArrayList<>();
 
         for (FearServerListFetcher.FearServer server : serverList) {
             try {
-                FearQuery.ServerStatus status = FearQuery.query(server.getIp(), server.getPort(), 5000);
+                InetSocketAddress address = AddressResolver.resolve(server.getIp(), server.getPort());
+                FearQuery.ServerStatus status = FearQuery.query(address, 5000);
                 String serverKey = server.getIp() + ":" + server.getPort();
 
                 if (status.online) {
@@ -193,11 +221,13 @@ public class FearServerMonitor {
 
                         ServerMessageInfo messageInfo = serverMessages.get(serverKey);
 
-                        if (messageInfo == null) {
+                        if (statusBoard != null) {
+                            boardSnapshot.add(new StatusBoard.Entry(server, status));
+                        } else if (messageInfo == null) {
                             sendNewMessage(serverKey, server, status);
                         } else {
-                            boolean needsUpdate = !status.map.equals(messageInfo.lastMap) ||
-                                    status.currentPlayers != messageInfo.lastPlayerCount;
+                            int changed = StatusSnapshot.of(status).diff(messageInfo.lastStatus);
+                            boolean needsUpdate = (changed & (StatusSnapshot.MAP | StatusSnapshot.PLAYER_COUNT)) != 0;
 
                             if (needsUpdate) {
                                 System.out.println("  -> Needs updating (map or number of players has changed)");
@@ -223,8 +253,6 @@ public class FearServerMonitor {
                     }
                 }
 
-                Thread.sleep(100);
-
             } catch (Exception e) {
                 System.err.println("Error while checking the server " + server.getIp() + ":" +
                         server.getPort() + " (" + server.getName() + "): " + e.getMessage());
@@ -239,6 +267,17 @@ public class FearServerMonitor {
         }
 
         System.out.println("Checking complete. Active servers: " + activeServers + "/" + serverList.size());
+
+        Set<Integer> liveSymbols = new HashSet<>();
+        for (ServerMessageInfo info : serverMessages.values()) {
+            info.lastStatus.collectSymbols(liveSymbols);
+        }
+        SymbolTable.prune(liveSymbols);
+
+        if (statusBoard != null) {
+            System.out.println("Publishing status board with " + serversWithPlayers + " servers...");
+            statusBoard.publish(boardSnapshot, playerThreshold);
+        }
     }
 
     private static String createServerMessage(FearServerListFetcher.FearServer server, FearQuery.ServerStatus status) {
@@ -269,9 +308,7 @@ public class FearServerMonitor {
                 message -> {
                     ServerMessageInfo info = new ServerMessageInfo(
                             message.getIdLong(),
-                            messageContent,
-                            status.map,
-                            status.currentPlayers
+                            StatusSnapshot.of(status)
                     );
                     serverMessages.put(serverKey, info);
                     System.out.println("  -> A new message has been sent (ID: " + message.getIdLong() + ")");
@@ -292,9 +329,7 @@ public class FearServerMonitor {
                 message -> {
                     message.editMessage(newContent).queue(
                             success -> {
-                                messageInfo.lastContent = newContent;
-                                messageInfo.lastMap = status.map;
-                                messageInfo.lastPlayerCount = status.currentPlayers;
+                                messageInfo.lastStatus = StatusSnapshot.of(status);
                                 serverMessages.put(serverKey, messageInfo);
                                 System.out.println("  -> Message updated (ID: " + messageInfo.messageId + ")");
                             },
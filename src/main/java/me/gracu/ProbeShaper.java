@@ -0,0 +1,131 @@
+package me.gracu;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ProbeShaper {
+
+    // Rates and bursts count packets; a full query is a details packet plus a players packet
+    private static final double HOST_RATE_PER_SECOND = 1.0;
+    private static final int HOST_BURST = 2;
+    private static final double SUBNET_RATE_PER_SECOND = 4.0;
+    private static final int SUBNET_BURST = 4;
+    private static final long IDLE_BUCKET_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private static class TokenBucket {
+        final double ratePerMs;
+        final double capacity;
+        double tokens;
+        long lastRefill;
+
+        TokenBucket(double ratePerSecond, int capacity, long now) {
+            this.ratePerMs = ratePerSecond / 1000.0;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        long availableAt(long time) {
+            double available = Math.min(capacity, tokens + Math.max(0, time - lastRefill) * ratePerMs);
+            if (available >= 1) return time;
+            return time + (long) Math.ceil((1 - available) / ratePerMs);
+        }
+
+        // Takes the token at the time the packet is actually sent, so a long wait cannot
+        // refill the bucket past its capacity behind an already granted packet
+        void take(long sendTime) {
+            if (sendTime > lastRefill) {
+                tokens = Math.min(capacity, tokens + (sendTime - lastRefill) * ratePerMs);
+                lastRefill = sendTime;
+            }
+            tokens -= 1;
+        }
+    }
+
+    private static final Map<String, TokenBucket> hostBuckets = new HashMap<>();
+    private static final Map<String, TokenBucket> subnetBuckets = new HashMap<>();
+
+    private static long sweepDeadline = Long.MAX_VALUE;
+    private static long nextSlot;
+    private static int probesRemaining;
+
+    /**
+     * Spreads the given number of probes evenly over the budget. The spacing is recomputed
+     * after every probe from the remaining budget, so time lost to slow or offline servers
+     * narrows the gaps instead of producing a burst. Only this global pacing is bounded by the
+     * budget; the per-destination buckets are always honoured, even once the budget is spent.
+     */
+    public static synchronized void beginSweep(int probes, long budgetMs) {
+        long now = System.currentTimeMillis();
+        sweepDeadline = now + budgetMs;
+        nextSlot = now;
+        probesRemaining = probes;
+
+        hostBuckets.values().removeIf(bucket -> now - bucket.lastRefill > IDLE_BUCKET_MS);
+        subnetBuckets.values().removeIf(bucket -> now - bucket.lastRefill > IDLE_BUCKET_MS);
+    }
+
+    public static void acquire(InetSocketAddress destination) {
+        sleep(reserve(destination.getAddress(), true));
+    }
+
+    // For packets answering a reply from the same server; only the destination buckets apply
+    public static void acquireFollowUp(InetSocketAddress destination) {
+        sleep(reserve(destination.getAddress(), false));
+    }
+
+    // For probes counted in beginSweep that will not be sent, e.g. unresolved hosts
+    public static synchronized void skip() {
+        probesRemaining = Math.max(0, probesRemaining - 1);
+    }
+
+    private static void sleep(long waitMs) {
+        if (waitMs <= 0) return;
+
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static synchronized long reserve(InetAddress address, boolean paced) {
+        long now = System.currentTimeMillis();
+
+        long sendTime = now;
+        if (paced) {
+            sendTime = Math.max(now, Math.min(nextSlot, sweepDeadline));
+        }
+
+        TokenBucket hostBucket = hostBuckets.computeIfAbsent(address.getHostAddress(),
+                key -> new TokenBucket(HOST_RATE_PER_SECOND, HOST_BURST, now));
+        TokenBucket subnetBucket = subnetBuckets.computeIfAbsent(subnetKey(address),
+                key -> new TokenBucket(SUBNET_RATE_PER_SECOND, SUBNET_BURST, now));
+
+        sendTime = Math.max(sendTime, hostBucket.availableAt(sendTime));
+        sendTime = Math.max(sendTime, subnetBucket.availableAt(sendTime));
+        hostBucket.take(sendTime);
+        subnetBucket.take(sendTime);
+
+        long waitMs = sendTime - now;
+
+        if (paced) {
+            probesRemaining = Math.max(0, probesRemaining - 1);
+            nextSlot = probesRemaining > 0
+                    ? sendTime + Math.max(0, sweepDeadline - sendTime) / probesRemaining
+                    : sendTime;
+        }
+        return waitMs;
+    }
+
+    private static String subnetKey(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        // /24 for IPv4, /64 for IPv6
+        int prefixLength = bytes.length == 4 ? 3 : 8;
+        return Arrays.toString(Arrays.copyOf(bytes, prefixLength));
+    }
+}
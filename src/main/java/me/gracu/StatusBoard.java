@@ -0,0 +1,252 @@
+package me.gracu;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class StatusBoard {
+
+    private static final String BOARD_MESSAGES_FILE = "board_messages.json";
+    // Discord allows at most 50 pinned messages per channel
+    public static final int MAX_PAGES = 50;
+    private static final int MAX_PAGE_LENGTH = 4000;
+    private static final int BOARD_COLOR = 0xE67E22;
+
+    public static class Entry {
+        final FearServerListFetcher.FearServer server;
+        final FearQuery.ServerStatus status;
+
+        public Entry(FearServerListFetcher.FearServer server, FearQuery.ServerStatus status) {
+            this.server = server;
+            this.status = status;
+        }
+    }
+
+    private static class PageInfo {
+        volatile long messageId = -1;
+        volatile int lastHash;
+        volatile boolean pending;
+    }
+
+    private final TextChannel channel;
+    private final PageInfo[] pages;
+
+    public StatusBoard(TextChannel channel, int pageCount) {
+        this.channel = channel;
+        this.pages = new PageInfo[pageCount];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new PageInfo();
+        }
+
+        loadPageIds();
+    }
+
+    private void loadPageIds() {
+        File boardFile = new File(BOARD_MESSAGES_FILE);
+        if (!boardFile.exists()) return;
+
+        List<Long> messageIds;
+        try (Reader reader = new FileReader(BOARD_MESSAGES_FILE)) {
+            Type listType = new TypeToken<List<Long>>(){}.getType();
+            messageIds = new Gson().fromJson(reader, listType);
+        } catch (Exception e) {
+            System.err.println("Error loading board message IDs: " + e.getMessage());
+            return;
+        }
+
+        if (messageIds == null) return;
+
+        for (int i = 0; i < messageIds.size(); i++) {
+            long messageId = messageIds.get(i);
+            if (i < pages.length) {
+                pages[i].messageId = messageId;
+            } else if (messageId != -1 && channel != null) {
+                System.out.println("Deleting board page " + (i + 1) + " no longer covered by board_pages");
+                deleteOldPage(messageId);
+            }
+        }
+
+        System.out.println("Loaded " + Math.min(messageIds.size(), pages.length) + " board page IDs from file.");
+
+        if (messageIds.size() > pages.length) {
+            savePageIds();
+        }
+    }
+
+    private synchronized void savePageIds() {
+        List<Long> messageIds = new ArrayList<>();
+        for (PageInfo page : pages) {
+            messageIds.add(page.messageId);
+        }
+
+        try (Writer writer = new FileWriter(BOARD_MESSAGES_FILE)) {
+            new Gson().toJson(messageIds, writer);
+        } catch (IOException e) {
+            System.err.println("Error saving board message IDs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Renders the sweep snapshot into the fixed set of board pages and edits only the pages
+     * whose rendered content differs from what was last published.
+     */
+    public void publish(List<Entry> snapshot, int playerThreshold) {
+        if (channel == null) return;
+
+        List<String> contents = render(snapshot, playerThreshold);
+
+        for (int i = 0; i < pages.length; i++) {
+            PageInfo page = pages[i];
+            String content = contents.get(i);
+            int hash = content.hashCode();
+
+            if (page.pending) {
+                System.out.println("  -> Board page " + (i + 1) + " is still being sent, skipping");
+                continue;
+            }
+
+            if (page.messageId != -1 && page.lastHash == hash) {
+                System.out.println("  -> Board page " + (i + 1) + " unchanged, no update required");
+                continue;
+            }
+
+            MessageEmbed embed = createEmbed(content, i);
+            if (page.messageId == -1) {
+                sendPage(page, i, embed, hash);
+            } else {
+                editPage(page, i, embed, hash);
+            }
+        }
+    }
+
+    private List<String> render(List<Entry> snapshot, int playerThreshold) {
+        List<Entry> sorted = new ArrayList<>(snapshot);
+        sorted.sort(Comparator.comparingInt((Entry e) -> e.status.currentPlayers).reversed()
+                .thenComparing(e -> e.server.getName()));
+
+        List<String> contents = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int rendered = 0;
+
+        for (Entry entry : sorted) {
+            String line = createServerLine(entry);
+
+            if (current.length() + line.length() > MAX_PAGE_LENGTH) {
+                if (contents.size() == pages.length - 1) break;
+                contents.add(current.toString());
+                current.setLength(0);
+            }
+
+            current.append(line);
+            rendered++;
+        }
+
+        if (rendered < sorted.size()) {
+            current.append("\n*...and ").append(sorted.size() - rendered).append(" more servers*");
+        }
+
+        if (sorted.isEmpty()) {
+            current.append("No servers with at least ").append(playerThreshold).append(" players right now.");
+        }
+
+        contents.add(current.toString());
+        while (contents.size() < pages.length) {
+            contents.add("No further servers.");
+        }
+
+        return contents;
+    }
+
+    private String createServerLine(Entry entry) {
+        FearServerListFetcher.FearServer server = entry.server;
+        FearQuery.ServerStatus status = entry.status;
+
+        return String.format(
+                "**%s**\n`%s:%d` | %s | **%d/%d** | %s\n\n",
+                server.getName(),
+                server.getIp(),
+                server.getPort(),
+                status.map,
+                status.currentPlayers,
+                status.maxPlayers,
+                status.gameType
+        );
+    }
+
+    private MessageEmbed createEmbed(String content, int pageIndex) {
+        String title = "🎮 ACTIVE SERVERS";
+        if (pages.length > 1) {
+            title += " (" + (pageIndex + 1) + "/" + pages.length + ")";
+        }
+
+        return new EmbedBuilder()
+                .setTitle(title)
+                .setDescription(content)
+                .setColor(BOARD_COLOR)
+                .setFooter("Last updated")
+                .setTimestamp(Instant.now())
+                .build();
+    }
+
+    private void sendPage(PageInfo page, int pageIndex, MessageEmbed embed, int hash) {
+        page.pending = true;
+
+        channel.sendMessageEmbeds(embed).queue(
+                message -> {
+                    page.messageId = message.getIdLong();
+                    page.lastHash = hash;
+                    page.pending = false;
+                    savePageIds();
+                    System.out.println("  -> Board page " + (pageIndex + 1) + " has been sent (ID: " + message.getIdLong() + ")");
+
+                    message.pin().queue(
+                            success -> {},
+                            error -> System.err.println("  -> Error pinning board page: " + error.getMessage())
+                    );
+                },
+                error -> {
+                    page.pending = false;
+                    System.err.println("  -> Error sending board page: " + error.getMessage());
+                }
+        );
+    }
+
+    private void editPage(PageInfo page, int pageIndex, MessageEmbed embed, int hash) {
+        long messageId = page.messageId;
+
+        channel.editMessageEmbedsById(messageId, embed).queue(
+                success -> {
+                    page.lastHash = hash;
+                    System.out.println("  -> Board page " + (pageIndex + 1) + " updated (ID: " + messageId + ")");
+                },
+                error -> {
+                    System.err.println("  -> Error updating board page " + (pageIndex + 1) + ": " + error.getMessage());
+
+                    // Anything but a vanished message (rate limits, outages) is retried on the next sweep
+                    if (error instanceof ErrorResponseException responseError &&
+                            responseError.getErrorResponse() == ErrorResponse.UNKNOWN_MESSAGE) {
+                        page.messageId = -1;
+                        sendPage(page, pageIndex, embed, hash);
+                    }
+                }
+        );
+    }
+
+    private void deleteOldPage(long messageId) {
+        channel.deleteMessageById(messageId).queue(
+                success -> System.out.println("  -> Old board page has been deleted (ID: " + messageId + ")"),
+                error -> {}
+        );
+    }
+}
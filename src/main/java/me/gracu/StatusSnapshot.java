@@ -0,0 +1,66 @@
+package me.gracu;
+
+import java.util.Set;
+
+public final class StatusSnapshot {
+
+    public static final int ONLINE = 1;
+    public static final int MAP = 1 << 1;
+    public static final int GAME_TYPE = 1 << 2;
+    public static final int GAME_VERSION = 1 << 3;
+    public static final int PLAYER_COUNT = 1 << 4;
+    public static final int MAX_PLAYERS = 1 << 5;
+
+    private final boolean online;
+    private final int mapId;
+    private final int gameTypeId;
+    private final int gameVersionId;
+    private final int currentPlayers;
+    private final int maxPlayers;
+
+    private StatusSnapshot(boolean online, int mapId, int gameTypeId, int gameVersionId,
+                           int currentPlayers, int maxPlayers) {
+        this.online = online;
+        this.mapId = mapId;
+        this.gameTypeId = gameTypeId;
+        this.gameVersionId = gameVersionId;
+        this.currentPlayers = currentPlayers;
+        this.maxPlayers = maxPlayers;
+    }
+
+    public static StatusSnapshot of(FearQuery.ServerStatus status) {
+        return new StatusSnapshot(
+                status.online,
+                SymbolTable.intern(status.map),
+                SymbolTable.intern(status.gameType),
+                SymbolTable.intern(status.gameVersion),
+                status.currentPlayers,
+                status.maxPlayers
+        );
+    }
+
+    /**
+     * Returns a bit mask of the fields that differ between the two snapshots, each found with
+     * a single int comparison.
+     */
+    public int diff(StatusSnapshot other) {
+        if (other == null) {
+            return ONLINE | MAP | GAME_TYPE | GAME_VERSION | PLAYER_COUNT | MAX_PLAYERS;
+        }
+
+        int changed = 0;
+        if (online != other.online) changed |= ONLINE;
+        if (mapId != other.mapId) changed |= MAP;
+        if (gameTypeId != other.gameTypeId) changed |= GAME_TYPE;
+        if (gameVersionId != other.gameVersionId) changed |= GAME_VERSION;
+        if (currentPlayers != other.currentPlayers) changed |= PLAYER_COUNT;
+        if (maxPlayers != other.maxPlayers) changed |= MAX_PLAYERS;
+        return changed;
+    }
+
+    public void collectSymbols(Set<Integer> symbolIds) {
+        symbolIds.add(mapId);
+        symbolIds.add(gameTypeId);
+        symbolIds.add(gameVersionId);
+    }
+}
@@ -0,0 +1,33 @@
+package me.gracu;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SymbolTable {
+
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    public static int intern(String symbol) {
+        Integer id = ids.get(symbol);
+        if (id != null) return id;
+
+        return ids.computeIfAbsent(symbol, key -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Drops every symbol not referenced by a live snapshot once the table grows past the
+     * threshold, since map names and versions come from untrusted servers. IDs are never
+     * reused, so a pruned symbol interned again only looks like a change, never hides one.
+     */
+    public static void prune(Set<Integer> liveIds) {
+        if (ids.size() <= PRUNE_THRESHOLD) return;
+
+        ids.values().retainAll(liveIds);
+        System.out.println("Symbol table pruned to " + ids.size() + " entries");
+    }
+}